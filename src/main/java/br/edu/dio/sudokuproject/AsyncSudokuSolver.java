@@ -0,0 +1,126 @@
+package br.edu.dio.sudokuproject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs solves and solution counts of a GridSudoku off the calling thread.
+ * The grid values are copied on the calling thread, so the game may keep changing while the search runs.
+ * Every request is bounded by a SolveBudget, and cancelling a returned future stops its search
+ * at the next node. A cancelled future reports a CancellationException, like any other CompletableFuture.
+ * Only the returned future propagates the cancellation, not futures derived from it.
+ */
+public class AsyncSudokuSolver {
+
+    private final Executor executor;
+
+    /**
+     * Constructs a new AsyncSudokuSolver running the searches on the common ForkJoinPool.
+     */
+    public AsyncSudokuSolver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new AsyncSudokuSolver.
+     * @param executor The executor running the searches. Racing needs one free thread per strategy to be effective.
+     */
+    public AsyncSudokuSolver(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Looks for one solution of the current grid.
+     * @param grid The game to solve. It is not modified.
+     * @param budget The time and node budget.
+     * @param strategy The order in which empty cells are branched on.
+     */
+    public CompletableFuture<SolveResult> solveAsync(GridSudoku grid, SolveBudget budget, EnumSolverStrategy strategy) {
+        return submit(grid.getCellValues(), strategy, budget, budget.deadlineFrom(System.nanoTime()), 1);
+    }
+
+    /**
+     * Counts the solutions of the current grid, stopping after limit solutions.
+     * A limit of 2 is enough to tell whether a puzzle has a unique solution.
+     * @param grid The game to check. It is not modified.
+     * @param budget The time and node budget.
+     * @param limit The maximum number of solutions to count.
+     */
+    public CompletableFuture<SolveResult> countSolutionsAsync(GridSudoku grid, SolveBudget budget, int limit) {
+        if (limit < 1) throw new IllegalArgumentException("Invalid solution limit: " + limit);
+        return submit(grid.getCellValues(), EnumSolverStrategy.MOST_CONSTRAINED_CELL, budget,
+                budget.deadlineFrom(System.nanoTime()), limit);
+    }
+
+    /**
+     * Solves the current grid with several strategies at once, each one on its own task.
+     * The first conclusive result wins and the remaining searches are cancelled. When no strategy is
+     * conclusive within the budget, the future completes with the result of the last strategy to stop.
+     * Cancelling the returned future cancels every strategy. If the executor rejects one of the strategies,
+     * the ones already started are cancelled and the rejection is rethrown.
+     * @param grid The game to solve. It is not modified.
+     * @param budget The time and node budget, applied to each strategy.
+     * @param strategies The strategies to race.
+     */
+    public CompletableFuture<SolveResult> raceAsync(GridSudoku grid, SolveBudget budget, EnumSolverStrategy... strategies) {
+        if (strategies.length == 0) throw new IllegalArgumentException("At least one strategy is required");
+
+        int[] values = grid.getCellValues();
+        long deadlineNanos = budget.deadlineFrom(System.nanoTime());
+        CompletableFuture<SolveResult> winner = new CompletableFuture<>();
+        List<CompletableFuture<SolveResult>> contenders = new ArrayList<>();
+        AtomicInteger pending = new AtomicInteger(strategies.length);
+
+        for (EnumSolverStrategy strategy : strategies) {
+            CompletableFuture<SolveResult> contender;
+            try {
+                contender = submit(values, strategy, budget, deadlineNanos, 1);
+            } catch (RuntimeException e) {
+                // The caller never gets the winner future, so the strategies already started are stopped here
+                contenders.forEach(started -> started.cancel(false));
+                throw e;
+            }
+            contenders.add(contender);
+            contender.whenComplete((result, error) -> {
+                boolean conclusive = error == null && result.isConclusive();
+                if (conclusive) {
+                    winner.complete(result);
+                } else if (pending.decrementAndGet() == 0) {
+                    if (error != null) winner.completeExceptionally(error);
+                    else winner.complete(result);
+                }
+            });
+        }
+        winner.whenComplete((result, error) -> contenders.forEach(contender -> contender.cancel(false)));
+        return winner;
+    }
+
+    private CompletableFuture<SolveResult> submit(int[] values, EnumSolverStrategy strategy, SolveBudget budget,
+                                                  long deadlineNanos, int solutionLimit) {
+        AtomicBoolean stopRequested = new AtomicBoolean(false);
+        SudokuSolver solver = new SudokuSolver(values, strategy, budget, deadlineNanos, stopRequested, solutionLimit);
+        // Claimed either by the task when it starts or by the deadline timer if the task is still queued
+        AtomicBoolean started = new AtomicBoolean(false);
+        SolveResult notStartedResult = new SolveResult(EnumSolveStatus.BUDGET_EXHAUSTED, strategy, null, 0, 0);
+        CompletableFuture<SolveResult> future = CompletableFuture.supplyAsync(
+                () -> started.compareAndSet(false, true) ? solver.run() : notStartedResult, executor);
+        if (budget.hasDeadline()) {
+            // A task still queued in a busy executor would miss the deadline, so it is answered by the timer.
+            // A running search is only asked to stop, and reports what it found so far
+            long remainingNanos = Math.max(0, deadlineNanos - System.nanoTime());
+            CompletableFuture.delayedExecutor(remainingNanos, TimeUnit.NANOSECONDS).execute(() -> {
+                if (started.compareAndSet(false, true)) future.complete(notStartedResult);
+                else stopRequested.set(true);
+            });
+        }
+        // Runs once the future completes in any way, including cancel(); stopping a finished search is harmless
+        future.whenComplete((result, error) -> stopRequested.set(true));
+        return future;
+    }
+}
@@ -0,0 +1,9 @@
+package br.edu.dio.sudokuproject;
+
+public enum EnumGameEventType {
+
+    PLACE,
+    REMOVE,
+    CLEAR,
+    STATUS_CHANGE
+}
@@ -0,0 +1,8 @@
+package br.edu.dio.sudokuproject;
+
+public enum EnumSolveStatus {
+
+    SOLVED,
+    NO_SOLUTION,
+    BUDGET_EXHAUSTED
+}
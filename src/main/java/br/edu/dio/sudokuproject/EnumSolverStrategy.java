@@ -0,0 +1,11 @@
+package br.edu.dio.sudokuproject;
+
+public enum EnumSolverStrategy {
+
+    // Fills the empty cells in row-major order
+    ROW_MAJOR,
+    // Always branches on the empty cell with the fewest candidates left
+    MOST_CONSTRAINED_CELL,
+    // Fills the empty cells from the bottom-right corner backwards
+    REVERSE_ROW_MAJOR
+}
@@ -0,0 +1,28 @@
+package br.edu.dio.sudokuproject;
+
+/**
+ * Receives the events read by a GameEventSubscriber. The events are decoded into primitives and
+ * enum constants, so delivering them does not allocate.
+ */
+public interface GameEventHandler {
+
+    /**
+     * Called once per event, in publication order.
+     * CLEAR only marks the end of a clearGame(): every value it removed was already published as a REMOVE event.
+     * @param sequence The position of the event in the stream, starting at 0.
+     * @param type The kind of change.
+     * @param cellIndex The row-major index of the changed cell (row * 9 + column), or -1 for CLEAR and STATUS_CHANGE.
+     * @param value The value placed (PLACE) or removed (REMOVE), 0 for the other types.
+     * @param status The game status right after the event.
+     */
+    void onEvent(long sequence, EnumGameEventType type, int cellIndex, int value, EnumGameStatus status);
+
+    /**
+     * Called when the subscriber fell more than the stream capacity behind and older events were overwritten.
+     * A replica should ask the thread that changes the game for a GridSudoku.takeSnapshot(),
+     * load its values and continue with GameEventSubscriber.resumeFrom(snapshot).
+     * @param lostEvents The number of events that could not be delivered.
+     */
+    default void onEventsLost(long lostEvents) {
+    }
+}
@@ -0,0 +1,118 @@
+package br.edu.dio.sudokuproject;
+
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-writer ring buffer of game change events.
+ * Each event is packed into one long together with its sequence number, so publishing an event is
+ * a single array write and nothing is allocated on the move path. Subscribers read at their own pace,
+ * from any thread; the writer never waits for them, and a subscriber that falls more than the capacity
+ * behind is told how many events it lost.
+ *
+ * Layout of a slot: bits 0-2 event type, 3-9 cell index, 10-13 value, 14-15 game status,
+ * 16-63 sequence + 1 (0 marks a slot that was never written).
+ */
+public class GameEventStream {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final int TYPE_SHIFT = 0;
+    private static final int INDEX_SHIFT = 3;
+    private static final int VALUE_SHIFT = 10;
+    private static final int STATUS_SHIFT = 14;
+    private static final int SEQUENCE_SHIFT = 16;
+    private static final long TYPE_MASK = 0x7;
+    private static final long INDEX_MASK = 0x7F;
+    private static final long VALUE_MASK = 0xF;
+    private static final long STATUS_MASK = 0x3;
+    // Marks CLEAR and STATUS_CHANGE events, which do not refer to a single cell
+    private static final int NO_CELL = (int) INDEX_MASK;
+
+    // values() returns a new array on every call, so the constants are cached for decoding
+    private static final EnumGameEventType[] EVENT_TYPES = EnumGameEventType.values();
+    private static final EnumGameStatus[] GAME_STATUSES = EnumGameStatus.values();
+
+    static {
+        // A constant that does not fit its field would be silently decoded as another one
+        if (EVENT_TYPES.length > TYPE_MASK + 1)
+            throw new ExceptionInInitializerError("Too many event types for the slot layout: " + EVENT_TYPES.length);
+        if (GAME_STATUSES.length > STATUS_MASK + 1)
+            throw new ExceptionInInitializerError("Too many game statuses for the slot layout: " + GAME_STATUSES.length);
+    }
+
+    private final long[] slots;
+    private final int indexMask;
+    @Getter
+    private final int capacity;
+    // Number of events published so far, only written by the publishing thread
+    private final AtomicLong publishedCount;
+
+    /**
+     * Constructs a new GameEventStream.
+     * @param capacity The number of events kept for slow subscribers (a power of two).
+     */
+    public GameEventStream(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        this.slots = new long[capacity];
+        this.capacity = capacity;
+        this.indexMask = capacity - 1;
+        this.publishedCount = new AtomicLong(0);
+    }
+
+    /**
+     * Creates a subscriber that receives the events published from now on.
+     */
+    public GameEventSubscriber subscribe() {
+        return new GameEventSubscriber(this, publishedCount.get());
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    void publishCellEvent(EnumGameEventType type, int cellIndex, int value, EnumGameStatus status) {
+        publish(type, cellIndex, value, status);
+    }
+
+    void publishGameEvent(EnumGameEventType type, EnumGameStatus status) {
+        publish(type, NO_CELL, 0, status);
+    }
+
+    private void publish(EnumGameEventType type, int cellIndex, int value, EnumGameStatus status) {
+        long sequence = publishedCount.get();
+        long event = ((long) type.ordinal() << TYPE_SHIFT)
+                | ((long) cellIndex << INDEX_SHIFT)
+                | ((long) value << VALUE_SHIFT)
+                | ((long) status.ordinal() << STATUS_SHIFT)
+                | ((sequence + 1) << SEQUENCE_SHIFT);
+        SLOTS.setRelease(slots, (int) (sequence & indexMask), event);
+        publishedCount.setRelease(sequence + 1);
+    }
+
+    /**
+     * Reads the event with the given sequence.
+     * @return The packed event, or 0 if it was not published yet.
+     *         A value whose sequence is newer than requested means the event was overwritten.
+     */
+    long read(long sequence) {
+        return (long) SLOTS.getAcquire(slots, (int) (sequence & indexMask));
+    }
+
+    static long sequenceOf(long event) {
+        return (event >>> SEQUENCE_SHIFT) - 1;
+    }
+
+    static void dispatch(long event, GameEventHandler handler) {
+        int cellIndex = (int) ((event >>> INDEX_SHIFT) & INDEX_MASK);
+        handler.onEvent(sequenceOf(event),
+                EVENT_TYPES[(int) ((event >>> TYPE_SHIFT) & TYPE_MASK)],
+                (cellIndex == NO_CELL) ? -1 : cellIndex,
+                (int) ((event >>> VALUE_SHIFT) & VALUE_MASK),
+                GAME_STATUSES[(int) ((event >>> STATUS_SHIFT) & STATUS_MASK)]);
+    }
+}
@@ -0,0 +1,68 @@
+package br.edu.dio.sudokuproject;
+
+import lombok.Getter;
+
+/**
+ * Read cursor over a GameEventStream. Each consumer owns its subscriber, which must only be
+ * polled by one thread at a time; different subscribers may be polled concurrently.
+ */
+public class GameEventSubscriber {
+
+    private final GameEventStream stream;
+    // Sequence of the next event to deliver
+    @Getter
+    private long nextSequence;
+    @Getter
+    private long lostEventCount;
+
+    GameEventSubscriber(GameEventStream stream, long firstSequence) {
+        this.stream = stream;
+        this.nextSequence = firstSequence;
+        this.lostEventCount = 0;
+    }
+
+    /**
+     * Delivers the events published since the last poll, without blocking.
+     * @param handler Receives the events in order.
+     * @param maxEvents The maximum number of events to deliver in this call.
+     * @return The number of events delivered.
+     */
+    public int poll(GameEventHandler handler, int maxEvents) {
+        int delivered = 0;
+        while (delivered < maxEvents) {
+            long event = stream.read(nextSequence);
+            long sequence = GameEventStream.sequenceOf(event);
+            if (event == 0 || sequence < nextSequence) break; // not published yet
+
+            if (sequence > nextSequence) {
+                // The writer lapped this subscriber, skips to the oldest event still in the buffer
+                long oldestAvailable = stream.getPublishedCount() - stream.getCapacity();
+                long lostEvents = oldestAvailable - nextSequence;
+                lostEventCount += lostEvents;
+                nextSequence = oldestAvailable;
+                handler.onEventsLost(lostEvents);
+                continue;
+            }
+
+            GameEventStream.dispatch(event, handler);
+            nextSequence++;
+            delivered++;
+        }
+        return delivered;
+    }
+
+    /**
+     * Moves the cursor to the first event not reflected in the snapshot, so the values of the snapshot
+     * plus the events delivered from now on rebuild the game exactly.
+     */
+    public void resumeFrom(GameSnapshot snapshot) {
+        this.nextSequence = snapshot.getSequence();
+    }
+
+    /**
+     * Number of events published but not yet delivered to this subscriber.
+     */
+    public long getBacklog() {
+        return stream.getPublishedCount() - nextSequence;
+    }
+}
@@ -0,0 +1,23 @@
+package br.edu.dio.sudokuproject;
+
+import lombok.Getter;
+
+/**
+ * Copy of the grid values tied to the position of the event stream it reflects.
+ * A subscriber that resumes from the snapshot receives exactly the events published after it was taken.
+ */
+@Getter
+public class GameSnapshot {
+
+    // Row-major values (81 entries), 0 for an empty cell
+    private final int[] values;
+    // Sequence of the first event not reflected in the values
+    private final long sequence;
+    private final EnumGameStatus status;
+
+    GameSnapshot(int[] values, long sequence, EnumGameStatus status) {
+        this.values = values;
+        this.sequence = sequence;
+        this.status = status;
+    }
+}
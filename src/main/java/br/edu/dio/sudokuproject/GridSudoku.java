@@ -12,6 +12,8 @@ public class GridSudoku {
     // Static and final properties for grid dimensions
     private static final int GRID_SIZE = 9;
     private static final int SUBGRID_SIZE = 3;
+    // Number of change events kept for subscribers that fall behind
+    private static final int EVENT_STREAM_CAPACITY = 1024;
 
     // Map where the key is a Coordinate object and the value is a Cell object
     private final Map<Coordinate, Cell> gridCellsMap;
@@ -32,6 +34,10 @@ public class GridSudoku {
     @Getter
     private EnumGameStatus gameStatus;
 
+    // Publishes every placement, removal, clear and status change to the subscribers
+    @Getter
+    private final GameEventStream eventStream;
+
 
     /**
      * Constructor for the GridSudoku class.
@@ -43,6 +49,7 @@ public class GridSudoku {
         this.filledCellCount = 0; // Starts with 0 filled cells
         this.isGameConsistent = true; // Assumes consistent until a violation is detected
         this.gridCellsListForRowAndColumnChecking = new ArrayList<>();
+        this.eventStream = new GameEventStream(EVENT_STREAM_CAPACITY);
 
         // Populate the gridCells map with initially empty cells and maps the subGrids
         for (int rowIndex = 0; rowIndex < GRID_SIZE; rowIndex++) {
@@ -95,6 +102,7 @@ public class GridSudoku {
         cell.setValue(value);
         filledCellCount++;
         validateSudokuConsistency(row, col, false);
+        eventStream.publishCellEvent(EnumGameEventType.PLACE, row * GRID_SIZE + col, value, gameStatus);
     }
 
 
@@ -110,9 +118,66 @@ public class GridSudoku {
         }
 
         validateSudokuConsistency(row, col, true);
+        int removedValue = cell.getValue();
         cell.removeValue();
         this.filledCellCount--;
-        this.gameStatus = EnumGameStatus.INCOMPLETE;
+        eventStream.publishCellEvent(EnumGameEventType.REMOVE, row * GRID_SIZE + col, removedValue, gameStatus);
+        changeGameStatus(EnumGameStatus.INCOMPLETE);
+    }
+
+    /**
+     * Applies several placements and removals at once, validating the grid a single time at the end.
+     * The moves are applied in order, so the same cell may be emptied and filled again in one batch.
+     * The batch is atomic: if any move is illegal, an exception is thrown and the grid stays unchanged.
+     * @param indices The row-major indices of the cells (row * 9 + column).
+     * @param values The values to set (0 to remove the current value).
+     */
+    public void setCellValues(int[] indices, int[] values) throws Exception {
+        if (indices.length != values.length)
+            throw new Exception("Indices and values must have the same length");
+
+        // Replays the moves on a copy first, so nothing is changed if one of them is illegal
+        int[] simulatedValues = getCellValues();
+        for (int moveIndex = 0; moveIndex < indices.length; moveIndex++) {
+            int index = indices[moveIndex];
+            int value = values[moveIndex];
+            if (index < 0 || index >= GRID_SIZE * GRID_SIZE)
+                throw new Exception("Invalid cell index: " + index);
+            if (value < 0 || value > GRID_SIZE)
+                throw new Exception("Invalid value: " + value);
+
+            Cell cell = gridCellsListForRowAndColumnChecking.get(index / GRID_SIZE).get(index % GRID_SIZE);
+            if (value == 0) {
+                if (simulatedValues[index] == 0)
+                    throw new Exception("Cell " + cell.getCoordinate() + " is already empty");
+                if (cell.getIsInitiallyFilled())
+                    throw new Exception("Initial values cannot be removed.");
+            } else if (simulatedValues[index] != 0) {
+                throw new Exception("Cell " + cell.getCoordinate() + " already occupied");
+            }
+            simulatedValues[index] = value;
+        }
+
+        boolean anyRemoval = false;
+        for (int moveIndex = 0; moveIndex < indices.length; moveIndex++) {
+            int index = indices[moveIndex];
+            Cell cell = gridCellsListForRowAndColumnChecking.get(index / GRID_SIZE).get(index % GRID_SIZE);
+            if (values[moveIndex] == 0) {
+                int removedValue = cell.getValue();
+                cell.removeValue();
+                this.filledCellCount--;
+                anyRemoval = true;
+                eventStream.publishCellEvent(EnumGameEventType.REMOVE, index, removedValue, gameStatus);
+            } else {
+                cell.setValue(values[moveIndex]);
+                this.filledCellCount++;
+                eventStream.publishCellEvent(EnumGameEventType.PLACE, index, values[moveIndex], gameStatus);
+            }
+        }
+
+        validateAllUnits();
+        if (anyRemoval)
+            changeGameStatus(EnumGameStatus.INCOMPLETE);
     }
 
     private void validateSudokuConsistency(Integer rowIndex, Integer columnIndex, boolean isRemoval) {
@@ -134,6 +199,57 @@ public class GridSudoku {
         this.isGameConsistent =  cellConsistent && !anyOtherCellInconsistent ;
     }
 
+    /**
+     * Recomputes the consistency of every cell with a single pass over the rows, columns and subGrids,
+     * instead of validating each changed cell against its units.
+     */
+    private void validateAllUnits() {
+        boolean allUnitsConsistent = true;
+        for (int unitIndex = 0; unitIndex < GRID_SIZE; unitIndex++) {
+            List<Cell> row = this.gridCellsListForRowAndColumnChecking.get(unitIndex);
+            List<Cell> column = new ArrayList<>();
+            for (List<Cell> rowList : this.gridCellsListForRowAndColumnChecking) {
+                column.add(rowList.get(unitIndex));
+            }
+            int topLeftRow = (unitIndex / SUBGRID_SIZE) * SUBGRID_SIZE;
+            int topLeftCol = (unitIndex % SUBGRID_SIZE) * SUBGRID_SIZE;
+            SudokuSubGrid subGrid = subGridMap.get(new Coordinate(topLeftRow, topLeftCol));
+
+            boolean[] rowRepeated = findRepeatedValues(row);
+            boolean[] columnRepeated = findRepeatedValues(column);
+            boolean[] subGridRepeated = findRepeatedValues(subGrid.getCells());
+
+            row.forEach(cell -> cell.setRowConsistent(!rowRepeated[cell.getValue()]));
+            column.forEach(cell -> cell.setColumnConsistent(!columnRepeated[cell.getValue()]));
+            subGrid.getCells().forEach(cell -> cell.setSubGridConsistent(!subGridRepeated[cell.getValue()]));
+
+            boolean subGridConsistent = !subGridRepeated[GRID_SIZE + 1];
+            subGrid.setConsistent(subGridConsistent);
+            allUnitsConsistent = allUnitsConsistent && !rowRepeated[GRID_SIZE + 1]
+                    && !columnRepeated[GRID_SIZE + 1] && subGridConsistent;
+        }
+        this.isGameConsistent = allUnitsConsistent;
+    }
+
+    /**
+     * Flags the values appearing more than once in a unit. Index 0 (empty cell) is never flagged,
+     * and the extra last position tells whether any value is repeated.
+     */
+    private boolean[] findRepeatedValues(List<Cell> unit) {
+        boolean[] seen = new boolean[GRID_SIZE + 1];
+        boolean[] repeated = new boolean[GRID_SIZE + 2];
+        for (Cell cell : unit) {
+            int value = cell.getValue();
+            if (value == 0) continue;
+            if (seen[value]) {
+                repeated[value] = true;
+                repeated[GRID_SIZE + 1] = true;
+            }
+            seen[value] = true;
+        }
+        return repeated;
+    }
+
     private Boolean checkRowConsistency(Cell lastChangedCell, boolean isRemoval) {
         Boolean rowConsistent = true;
         Integer rowIndex = lastChangedCell.getCoordinate().getRow();
@@ -234,6 +350,30 @@ public class GridSudoku {
         return subGridConsistent;
     }
 
+    /**
+     * Copies the current values of the grid in row-major order (index = row * 9 + column).
+     * @return An array with 81 entries, 0 for an empty cell.
+     */
+    public int[] getCellValues() {
+        int[] values = new int[GRID_SIZE * GRID_SIZE];
+        for (int rowIndex = 0; rowIndex < GRID_SIZE; rowIndex++) {
+            List<Cell> row = this.gridCellsListForRowAndColumnChecking.get(rowIndex);
+            for (int columnIndex = 0; columnIndex < GRID_SIZE; columnIndex++) {
+                values[rowIndex * GRID_SIZE + columnIndex] = row.get(columnIndex).getValue();
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Copies the current values together with the position of the event stream they reflect.
+     * Must be called on the thread that changes the game, like every other method of this class;
+     * a subscriber on another thread then resumes from it with GameEventSubscriber.resumeFrom.
+     */
+    public GameSnapshot takeSnapshot() {
+        return new GameSnapshot(getCellValues(), eventStream.getPublishedCount(), gameStatus);
+    }
+
     public Boolean getGameConsistent() {
         return gameStatus == EnumGameStatus.NOT_INITIATED || isGameConsistent;
     }
@@ -246,15 +386,28 @@ public class GridSudoku {
                 Cell existingCell = gridCellsMap.get(coordinate);
                 boolean isNotInitiallyFilled = !existingCell.getIsInitiallyFilled();
                 if (isNotInitiallyFilled) {
+                    int removedValue = existingCell.getValue();
                     existingCell.removeValue();
+                    // Subscribers do not know the initial cells, so each removal is published on its own
+                    if (removedValue != 0)
+                        eventStream.publishCellEvent(EnumGameEventType.REMOVE, rowIndex * GRID_SIZE + columnIndex,
+                                removedValue, gameStatus);
                 }
             }
         }
-        this.gameStatus = EnumGameStatus.NOT_INITIATED;
+        eventStream.publishGameEvent(EnumGameEventType.CLEAR, gameStatus);
+        changeGameStatus(EnumGameStatus.NOT_INITIATED);
 
     }
 
 
+    private void changeGameStatus(EnumGameStatus newStatus) {
+        if (this.gameStatus == newStatus)
+            return;
+        this.gameStatus = newStatus;
+        eventStream.publishGameEvent(EnumGameEventType.STATUS_CHANGE, newStatus);
+    }
+
     public void showGame(){
         System.out.println(" _____  _____  _____  _____  _____  _____  _____  _____  _____ ");
         for(int i = 0 ; i < 9 ; i++){
@@ -271,7 +424,7 @@ public class GridSudoku {
         if(this.gameStatus != EnumGameStatus.NOT_INITIATED)
             return false;
         else {
-            this.gameStatus = EnumGameStatus.INCOMPLETE;
+            changeGameStatus(EnumGameStatus.INCOMPLETE);
             return true;
         }
 
@@ -280,7 +433,7 @@ public class GridSudoku {
     public Boolean finishGame() {
         boolean isGameCompletelyFilled = (filledCellCount == (GRID_SIZE * GRID_SIZE));
         if(isGameCompletelyFilled && this.getGameConsistent()){
-            gameStatus = EnumGameStatus.COMPLETE;
+            changeGameStatus(EnumGameStatus.COMPLETE);
             return true;
         }
         return false;
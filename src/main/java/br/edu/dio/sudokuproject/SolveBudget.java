@@ -0,0 +1,57 @@
+package br.edu.dio.sudokuproject;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Limits how much work a single asynchronous solve may perform.
+ * The search stops as soon as either the time or the node limit is reached.
+ */
+@Getter
+public class SolveBudget {
+
+    private static final long UNLIMITED = Long.MAX_VALUE;
+
+    // Maximum wall-clock time in nanoseconds, measured from the moment the request is submitted
+    private final long timeoutNanos;
+    // Maximum number of placements the search may try
+    private final long maxNodes;
+
+    /**
+     * Constructs a new SolveBudget.
+     * @param timeout The maximum time to spend, or null for no time limit.
+     * @param maxNodes The maximum number of placements to try (must be positive).
+     */
+    public SolveBudget(Duration timeout, long maxNodes) {
+        if (maxNodes < 1) throw new IllegalArgumentException("Invalid node budget: " + maxNodes);
+        if (timeout != null && timeout.isNegative()) throw new IllegalArgumentException("Invalid timeout: " + timeout);
+        // Durations too long to fit in nanoseconds (e.g. ChronoUnit.FOREVER) mean no time limit
+        boolean noTimeLimit = timeout == null || timeout.compareTo(Duration.ofNanos(UNLIMITED)) >= 0;
+        this.timeoutNanos = noTimeLimit ? UNLIMITED : timeout.toNanos();
+        this.maxNodes = maxNodes;
+    }
+
+    public static SolveBudget ofTimeout(Duration timeout) {
+        return new SolveBudget(timeout, UNLIMITED);
+    }
+
+    public static SolveBudget ofNodes(long maxNodes) {
+        return new SolveBudget(null, maxNodes);
+    }
+
+    public static SolveBudget unlimited() {
+        return new SolveBudget(null, UNLIMITED);
+    }
+
+    long deadlineFrom(long startNanos) {
+        if (timeoutNanos == UNLIMITED) return UNLIMITED;
+        long deadline = startNanos + timeoutNanos;
+        // Guards against overflow for very large timeouts
+        return (deadline < startNanos) ? UNLIMITED : deadline;
+    }
+
+    boolean hasDeadline() {
+        return timeoutNanos != UNLIMITED;
+    }
+}
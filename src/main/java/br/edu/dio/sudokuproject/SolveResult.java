@@ -0,0 +1,38 @@
+package br.edu.dio.sudokuproject;
+
+import lombok.Getter;
+
+/**
+ * Outcome of an asynchronous solve or solution count.
+ */
+@Getter
+public class SolveResult {
+
+    private final EnumSolveStatus status;
+    private final EnumSolverStrategy strategy;
+    // Row-major values (81 entries) of the first solution found, or null if none was found
+    private final int[] solution;
+    // Number of solutions found; a lower bound when the search was stopped early
+    private final int solutionCount;
+    // Number of placements tried by the search
+    private final long nodesVisited;
+
+    SolveResult(EnumSolveStatus status, EnumSolverStrategy strategy, int[] solution, int solutionCount, long nodesVisited) {
+        this.status = status;
+        this.strategy = strategy;
+        this.solution = solution;
+        this.solutionCount = solutionCount;
+        this.nodesVisited = nodesVisited;
+    }
+
+    /**
+     * A result is conclusive when the search answered the question instead of being stopped by its budget.
+     */
+    public Boolean isConclusive() {
+        return status == EnumSolveStatus.SOLVED || status == EnumSolveStatus.NO_SOLUTION;
+    }
+
+    public Integer getSolutionValue(int row, int col) {
+        return (solution == null) ? null : solution[row * 9 + col];
+    }
+}
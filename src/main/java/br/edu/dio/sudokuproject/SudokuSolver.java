@@ -0,0 +1,183 @@
+package br.edu.dio.sudokuproject;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Backtracking solver working on a private row-major copy of the grid values.
+ * Rows, columns and subGrids keep a bitmask of the digits already used, so checking a
+ * candidate costs a couple of bitwise operations instead of scanning the cells.
+ * The search is cooperative: it stops when the node budget or the deadline is hit, or when another
+ * thread raises the stop flag. A stopped search always reports BUDGET_EXHAUSTED with what it found so far.
+ */
+class SudokuSolver {
+
+    private static final int GRID_SIZE = 9;
+    private static final int SUBGRID_SIZE = 3;
+    private static final int CELL_COUNT = GRID_SIZE * GRID_SIZE;
+    private static final int ALL_DIGITS = 0x3FE; // bits 1 to 9
+    // The clock is only read once every this many nodes, as System.nanoTime() is not free
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final EnumSolverStrategy strategy;
+    private final int[] values;
+    private final int[] rowMasks = new int[GRID_SIZE];
+    private final int[] columnMasks = new int[GRID_SIZE];
+    private final int[] subGridMasks = new int[GRID_SIZE];
+
+    private final long maxNodes;
+    private final long deadlineNanos;
+    private final boolean hasDeadline;
+    private final AtomicBoolean stopRequested;
+    private final int solutionLimit;
+
+    private long nodesVisited;
+    private int solutionCount;
+    private int[] firstSolution;
+    private EnumSolveStatus stopReason;
+
+    /**
+     * Constructs a new SudokuSolver.
+     * @param values Row-major grid values (0 for an empty cell). The array is copied.
+     * @param strategy The order in which empty cells are branched on.
+     * @param budget The node and time budget.
+     * @param deadlineNanos The System.nanoTime() value after which the search must stop.
+     * @param stopRequested Flag set by another thread to request the search to stop.
+     * @param solutionLimit The search stops after finding this many solutions.
+     */
+    SudokuSolver(int[] values, EnumSolverStrategy strategy, SolveBudget budget, long deadlineNanos,
+                 AtomicBoolean stopRequested, int solutionLimit) {
+        this.values = values.clone();
+        this.strategy = strategy;
+        this.maxNodes = budget.getMaxNodes();
+        this.hasDeadline = budget.hasDeadline();
+        this.deadlineNanos = deadlineNanos;
+        this.stopRequested = stopRequested;
+        this.solutionLimit = solutionLimit;
+    }
+
+    SolveResult run() {
+        if (!loadMasks()) {
+            // The grid already breaks a Sudoku rule, no placement can fix it
+            return new SolveResult(EnumSolveStatus.NO_SOLUTION, strategy, null, 0, 0);
+        }
+        search();
+
+        EnumSolveStatus status;
+        if (stopReason != null) status = stopReason;
+        else status = (solutionCount > 0) ? EnumSolveStatus.SOLVED : EnumSolveStatus.NO_SOLUTION;
+        return new SolveResult(status, strategy, firstSolution, solutionCount, nodesVisited);
+    }
+
+    private boolean loadMasks() {
+        for (int index = 0; index < CELL_COUNT; index++) {
+            int value = values[index];
+            if (value == 0) continue;
+            int bit = 1 << value;
+            int row = index / GRID_SIZE;
+            int col = index % GRID_SIZE;
+            int subGrid = subGridIndex(row, col);
+            if (((rowMasks[row] | columnMasks[col] | subGridMasks[subGrid]) & bit) != 0) return false;
+            rowMasks[row] |= bit;
+            columnMasks[col] |= bit;
+            subGridMasks[subGrid] |= bit;
+        }
+        return true;
+    }
+
+    /**
+     * Depth-first search over the empty cells.
+     * @return true when the whole search must stop (solution limit reached or budget exhausted).
+     */
+    private boolean search() {
+        int index = selectNextCell();
+        if (index < 0) {
+            // Recorded before the budget check, so the placement that completes the grid is never lost
+            solutionCount++;
+            if (firstSolution == null) firstSolution = values.clone();
+            return solutionCount >= solutionLimit;
+        }
+
+        if (budgetExhausted()) return true;
+
+        int row = index / GRID_SIZE;
+        int col = index % GRID_SIZE;
+        int subGrid = subGridIndex(row, col);
+        int candidates = ALL_DIGITS & ~(rowMasks[row] | columnMasks[col] | subGridMasks[subGrid]);
+
+        while (candidates != 0) {
+            int bit = candidates & -candidates;
+            candidates ^= bit;
+
+            values[index] = Integer.numberOfTrailingZeros(bit);
+            rowMasks[row] |= bit;
+            columnMasks[col] |= bit;
+            subGridMasks[subGrid] |= bit;
+            nodesVisited++;
+
+            boolean stop = search();
+
+            values[index] = 0;
+            rowMasks[row] ^= bit;
+            columnMasks[col] ^= bit;
+            subGridMasks[subGrid] ^= bit;
+            if (stop) return true;
+        }
+        return false;
+    }
+
+    private int selectNextCell() {
+        switch (strategy) {
+            case MOST_CONSTRAINED_CELL -> {
+                int bestIndex = -1;
+                int bestCount = Integer.MAX_VALUE;
+                for (int index = 0; index < CELL_COUNT; index++) {
+                    if (values[index] != 0) continue;
+                    int row = index / GRID_SIZE;
+                    int col = index % GRID_SIZE;
+                    int used = rowMasks[row] | columnMasks[col] | subGridMasks[subGridIndex(row, col)];
+                    int count = Integer.bitCount(ALL_DIGITS & ~used);
+                    if (count < bestCount) {
+                        bestIndex = index;
+                        bestCount = count;
+                        // A cell with zero or one candidate cannot be beaten
+                        if (count <= 1) break;
+                    }
+                }
+                return bestIndex;
+            }
+            case REVERSE_ROW_MAJOR -> {
+                for (int index = CELL_COUNT - 1; index >= 0; index--) {
+                    if (values[index] == 0) return index;
+                }
+                return -1;
+            }
+            default -> {
+                for (int index = 0; index < CELL_COUNT; index++) {
+                    if (values[index] == 0) return index;
+                }
+                return -1;
+            }
+        }
+    }
+
+    private boolean budgetExhausted() {
+        if (stopReason != null) return true;
+        if (stopRequested.get()) {
+            stopReason = EnumSolveStatus.BUDGET_EXHAUSTED;
+            return true;
+        }
+        if (nodesVisited >= maxNodes) {
+            stopReason = EnumSolveStatus.BUDGET_EXHAUSTED;
+            return true;
+        }
+        if (hasDeadline && nodesVisited % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadlineNanos >= 0) {
+            stopReason = EnumSolveStatus.BUDGET_EXHAUSTED;
+            return true;
+        }
+        return false;
+    }
+
+    private static int subGridIndex(int row, int col) {
+        return (row / SUBGRID_SIZE) * SUBGRID_SIZE + col / SUBGRID_SIZE;
+    }
+}